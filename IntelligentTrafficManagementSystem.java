@@ -1,5 +1,7 @@
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.stream.Collectors;
@@ -413,27 +415,46 @@ class TrafficAnalytics {
     private Map<String, List<Vehicle>> trafficHistory;
     private Map<String, Integer> congestionMap;
     private Map<String, List<TrafficDataPoint>> mlTrainingData;
+    private Map<String, double[]> speedTotals; // {sum of speeds, vehicle count}, replaced on every update
+    private Map<String, Integer> trainedDataPoints;
     private TrafficPredictionModel predictionModel;
     
     public TrafficAnalytics() {
         this.trafficHistory = new ConcurrentHashMap<>();
         this.congestionMap = new ConcurrentHashMap<>();
         this.mlTrainingData = new ConcurrentHashMap<>();
+        this.speedTotals = new ConcurrentHashMap<>();
+        this.trainedDataPoints = new ConcurrentHashMap<>();
         this.predictionModel = new TrafficPredictionModel();
     }
     
+    // Ingest only appends; retraining happens in retrainModels() so it can be shed under load
     public void recordTrafficData(String intersectionId, List<Vehicle> vehicles) {
-        trafficHistory.computeIfAbsent(intersectionId, k -> new ArrayList<>()).addAll(vehicles);
+        trafficHistory.computeIfAbsent(intersectionId, k -> Collections.synchronizedList(new ArrayList<>())).addAll(vehicles);
         congestionMap.put(intersectionId, vehicles.size());
         
+        double speedSum = vehicles.stream().mapToDouble(Vehicle::getSpeed).sum();
+        speedTotals.merge(intersectionId, new double[] {speedSum, vehicles.size()},
+            (a, b) -> new double[] {a[0] + b[0], a[1] + b[1]});
+        
         // Create ML training data point
         TrafficDataPoint dataPoint = new TrafficDataPoint(intersectionId, vehicles);
-        mlTrainingData.computeIfAbsent(intersectionId, k -> new ArrayList<>()).add(dataPoint);
-        
-        // Train model periodically (every 10 data points)
-        List<TrafficDataPoint> intersectionData = mlTrainingData.get(intersectionId);
-        if (intersectionData.size() % 10 == 0) {
-            predictionModel.trainModel(intersectionId, intersectionData);
+        mlTrainingData.computeIfAbsent(intersectionId, k -> Collections.synchronizedList(new ArrayList<>())).add(dataPoint);
+    }
+    
+    // Train model periodically (every 10 new data points) on a snapshot of the training data
+    public void retrainModels() {
+        for (Map.Entry<String, List<TrafficDataPoint>> entry : mlTrainingData.entrySet()) {
+            List<TrafficDataPoint> snapshot;
+            synchronized (entry.getValue()) {
+                snapshot = new ArrayList<>(entry.getValue());
+            }
+            
+            int trained = trainedDataPoints.getOrDefault(entry.getKey(), 0);
+            if (snapshot.size() - trained >= 10) {
+                predictionModel.trainModel(entry.getKey(), snapshot);
+                trainedDataPoints.put(entry.getKey(), snapshot.size());
+            }
         }
     }
     
@@ -446,13 +467,10 @@ class TrafficAnalytics {
     }
     
     public double getAverageSpeed(String intersectionId) {
-        List<Vehicle> vehicles = trafficHistory.get(intersectionId);
-        if (vehicles == null || vehicles.isEmpty()) return 0;
+        double[] totals = speedTotals.get(intersectionId);
+        if (totals == null || totals[1] == 0) return 0;
         
-        return vehicles.stream()
-                .mapToDouble(Vehicle::getSpeed)
-                .average()
-                .orElse(0);
+        return totals[0] / totals[1];
     }
     
     public List<String> getCongestionHotspots() {
@@ -467,12 +485,7 @@ class TrafficAnalytics {
         System.out.println("\n=== ENHANCED TRAFFIC ANALYTICS REPORT WITH ML ===");
         System.out.println("Generated at: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
         
-        System.out.println("\nCurrent Traffic Status:");
-        List<String> hotspots = getCongestionHotspots();
-        for (String intersection : hotspots) {
-            System.out.printf("- %s: %d vehicles (Avg Speed: %.1f km/h)%n", 
-                intersection, congestionMap.get(intersection), getAverageSpeed(intersection));
-        }
+        printCurrentStatus();
         
         System.out.println("\nTraffic Predictions (Next Hour):");
         for (String intersection : trafficHistory.keySet()) {
@@ -497,21 +510,45 @@ class TrafficAnalytics {
             }
         }
         
+        printSystemStatistics();
+    }
+    
+    // Degraded report used under load: skips predictions and recommendations
+    public void generateTrafficSummary() {
+        System.out.println("\n=== TRAFFIC SUMMARY (DEGRADED REPORT) ===");
+        System.out.println("Generated at: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        
+        printCurrentStatus();
+        printSystemStatistics();
+    }
+    
+    private void printCurrentStatus() {
+        System.out.println("\nCurrent Traffic Status:");
+        List<String> hotspots = getCongestionHotspots();
+        for (String intersection : hotspots) {
+            System.out.printf("- %s: %d vehicles (Avg Speed: %.1f km/h)%n", 
+                intersection, congestionMap.get(intersection), getAverageSpeed(intersection));
+        }
+    }
+    
+    private void printSystemStatistics() {
         System.out.println("\nSystem Statistics:");
         System.out.println("Total Intersections Monitored: " + trafficHistory.size());
-        int totalVehicles = trafficHistory.values().stream().mapToInt(List::size).sum();
+        int totalVehicles = speedTotals.values().stream().mapToInt(totals -> (int) totals[1]).sum();
         System.out.println("Total Vehicles Detected: " + totalVehicles);
         int totalDataPoints = mlTrainingData.values().stream().mapToInt(List::size).sum();
         System.out.println("ML Training Data Points: " + totalDataPoints);
     }
 }
 
-// Emergency Vehicle Handler (unchanged)
+// Emergency Vehicle Handler (runs on its own executor, never shed)
 class EmergencyVehicleHandler {
     private TrafficManagementSystem tms;
+    private ScheduledExecutorService emergencyScheduler;
     
-    public EmergencyVehicleHandler(TrafficManagementSystem tms) {
+    public EmergencyVehicleHandler(TrafficManagementSystem tms, ScheduledExecutorService emergencyScheduler) {
         this.tms = tms;
+        this.emergencyScheduler = emergencyScheduler;
     }
     
     public void handleEmergencyVehicle(Vehicle emergencyVehicle) {
@@ -523,31 +560,226 @@ class EmergencyVehicleHandler {
         String intersectionId = emergencyVehicle.getLocation();
         tms.setEmergencyOverride(intersectionId, true);
         
-        Timer timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                tms.setEmergencyOverride(intersectionId, false);
-                System.out.println(">>> Emergency override cleared for " + intersectionId);
+        emergencyScheduler.schedule(() -> {
+            tms.setEmergencyOverride(intersectionId, false);
+            System.out.println(">>> Emergency override cleared for " + intersectionId);
+        }, 30, TimeUnit.SECONDS);
+    }
+}
+
+// Sensor batch handed from detection to the ingest stage
+class SensorReading {
+    private String intersectionId;
+    private List<Vehicle> vehicles;
+    private LocalDateTime capturedAt;
+    
+    public SensorReading(String intersectionId, List<Vehicle> vehicles) {
+        this.intersectionId = intersectionId;
+        this.vehicles = vehicles;
+        this.capturedAt = LocalDateTime.now();
+    }
+    
+    // Getters
+    public String getIntersectionId() { return intersectionId; }
+    public List<Vehicle> getVehicles() { return vehicles; }
+    public LocalDateTime getCapturedAt() { return capturedAt; }
+}
+
+// Bounded ingest queue between sensors and analytics
+class SensorIngestQueue {
+    private BlockingQueue<SensorReading> queue;
+    private int capacity;
+    private AtomicLong acceptedCount;
+    private AtomicLong rejectedCount;
+    private AtomicLong withheldCount;
+    
+    public SensorIngestQueue(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.acceptedCount = new AtomicLong();
+        this.rejectedCount = new AtomicLong();
+        this.withheldCount = new AtomicLong();
+    }
+    
+    // Never blocks the sensor; a false return drops the batch and tells the sensor stage to hold off
+    public boolean offer(SensorReading reading) {
+        if (queue.offer(reading)) {
+            acceptedCount.incrementAndGet();
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+    
+    // Batch the sensor stage chose not to submit while backing off
+    public void recordWithheld() {
+        withheldCount.incrementAndGet();
+    }
+    
+    public SensorReading take() throws InterruptedException {
+        return queue.take();
+    }
+    
+    public double getFillRatio() {
+        return (double) queue.size() / capacity;
+    }
+    
+    // Getters
+    public int getDepth() { return queue.size(); }
+    public int getCapacity() { return capacity; }
+    public long getAcceptedCount() { return acceptedCount.get(); }
+    public long getRejectedCount() { return rejectedCount.get(); }
+    public long getWithheldCount() { return withheldCount.get(); }
+}
+
+// Cycle-overrun detection and load-shedding decisions
+class OverloadMonitor {
+    public static final String STAGE_SIGNALS = "signals";
+    public static final String STAGE_DETECTION = "detection";
+    public static final String STAGE_INGEST = "ingest";
+    public static final String STAGE_PREDICTION = "prediction";
+    public static final String STAGE_REPORT = "report";
+    
+    public static final double ELEVATED_QUEUE_FILL = 0.5;
+    private static final double CRITICAL_QUEUE_FILL = 0.8;
+    private static final int CRITICAL_CONSECUTIVE_OVERRUNS = 3;
+    
+    // Only stages that are never shed drive the load level; shed stages would feed back on themselves
+    private static final String[] CRITICAL_STAGES = {STAGE_SIGNALS, STAGE_DETECTION, STAGE_INGEST};
+    private static final String[] ALL_STAGES = {STAGE_SIGNALS, STAGE_DETECTION, STAGE_INGEST, STAGE_PREDICTION, STAGE_REPORT};
+    
+    public enum LoadLevel {
+        NORMAL,   // everything runs
+        ELEVATED, // reports degraded to a summary
+        CRITICAL  // reports and prediction refresh shed
+    }
+    
+    private SensorIngestQueue ingestQueue;
+    private Map<String, AtomicLong> cycleOverruns;
+    private Map<String, AtomicInteger> consecutiveOverruns;
+    private Map<String, AtomicLong> maxCycleMillis;
+    private Map<String, AtomicLong> shedCycles;
+    private Map<String, AtomicLong> degradedCycles;
+    
+    public OverloadMonitor(SensorIngestQueue ingestQueue) {
+        this.ingestQueue = ingestQueue;
+        this.cycleOverruns = new ConcurrentHashMap<>();
+        this.consecutiveOverruns = new ConcurrentHashMap<>();
+        this.maxCycleMillis = new ConcurrentHashMap<>();
+        this.shedCycles = new ConcurrentHashMap<>();
+        this.degradedCycles = new ConcurrentHashMap<>();
+    }
+    
+    public void recordCycle(String stage, long durationMillis, long periodMillis) {
+        maxCycleMillis.computeIfAbsent(stage, k -> new AtomicLong()).accumulateAndGet(durationMillis, Math::max);
+        
+        AtomicInteger streak = consecutiveOverruns.computeIfAbsent(stage, k -> new AtomicInteger());
+        if (durationMillis > periodMillis) {
+            cycleOverruns.computeIfAbsent(stage, k -> new AtomicLong()).incrementAndGet();
+            streak.incrementAndGet();
+            System.out.printf("[OVERLOAD] %s cycle took %dms (period %dms)%n", stage, durationMillis, periodMillis);
+        } else {
+            streak.set(0);
+        }
+    }
+    
+    // Shed cycles are not passed to recordCycle, so they neither extend nor reset an overrun streak
+    public void recordShed(String stage) {
+        shedCycles.computeIfAbsent(stage, k -> new AtomicLong()).incrementAndGet();
+    }
+    
+    public void recordDegraded(String stage) {
+        degradedCycles.computeIfAbsent(stage, k -> new AtomicLong()).incrementAndGet();
+    }
+    
+    public LoadLevel getLoadLevel() {
+        double queueFill = ingestQueue.getFillRatio();
+        int worstStreak = 0;
+        for (String stage : CRITICAL_STAGES) {
+            AtomicInteger streak = consecutiveOverruns.get(stage);
+            if (streak != null) {
+                worstStreak = Math.max(worstStreak, streak.get());
             }
-        }, 30000);
+        }
+        
+        if (queueFill >= CRITICAL_QUEUE_FILL || worstStreak >= CRITICAL_CONSECUTIVE_OVERRUNS) {
+            return LoadLevel.CRITICAL;
+        } else if (queueFill >= ELEVATED_QUEUE_FILL || worstStreak > 0) {
+            return LoadLevel.ELEVATED;
+        }
+        return LoadLevel.NORMAL;
+    }
+    
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("ingest.queueDepth", (long) ingestQueue.getDepth());
+        metrics.put("ingest.queueCapacity", (long) ingestQueue.getCapacity());
+        metrics.put("ingest.accepted", ingestQueue.getAcceptedCount());
+        metrics.put("ingest.rejected", ingestQueue.getRejectedCount());
+        metrics.put("ingest.withheld", ingestQueue.getWithheldCount());
+        
+        for (String stage : ALL_STAGES) {
+            metrics.put(stage + ".overruns", valueOf(cycleOverruns, stage));
+            metrics.put(stage + ".maxCycleMs", valueOf(maxCycleMillis, stage));
+            metrics.put(stage + ".shed", valueOf(shedCycles, stage));
+        }
+        metrics.put(STAGE_REPORT + ".degraded", valueOf(degradedCycles, STAGE_REPORT));
+        return metrics;
+    }
+    
+    public void printOverloadStatus() {
+        System.out.println("\nSystem Load: " + getLoadLevel());
+        for (Map.Entry<String, Long> metric : getMetrics().entrySet()) {
+            System.out.println("  " + metric.getKey() + " = " + metric.getValue());
+        }
+    }
+    
+    private static long valueOf(Map<String, AtomicLong> counters, String stage) {
+        AtomicLong counter = counters.get(stage);
+        return counter == null ? 0 : counter.get();
     }
 }
 
 // Enhanced Main Traffic Management System
 class TrafficManagementSystem {
+    private static final long SIGNAL_PERIOD_MS = 2000;
+    private static final long DETECTION_PERIOD_MS = 5000;
+    private static final long PREDICTION_PERIOD_MS = 5000;
+    private static final long REPORT_PERIOD_MS = 45000;
+    private static final int INGEST_QUEUE_CAPACITY = 32;
+    
     private Map<String, TrafficSignal> trafficSignals;
+    private Map<String, TrafficPrediction> latestPredictions;
     private VehicleDetectionSystem detectionSystem;
     private TrafficAnalytics analytics;
     private EmergencyVehicleHandler emergencyHandler;
-    private ScheduledExecutorService scheduler;
+    private SensorIngestQueue ingestQueue;
+    private OverloadMonitor overloadMonitor;
+    private boolean ingestBackedOff; // only touched by the sensor thread
+    
+    // One executor per subsystem so a slow stage cannot starve the others
+    private ScheduledExecutorService signalScheduler;
+    private ScheduledExecutorService sensorScheduler;
+    private ExecutorService ingestExecutor;
+    private ScheduledExecutorService predictionScheduler;
+    private ScheduledExecutorService reportScheduler;
+    private ScheduledExecutorService emergencyScheduler;
     
     public TrafficManagementSystem() {
         this.trafficSignals = new ConcurrentHashMap<>();
+        this.latestPredictions = new ConcurrentHashMap<>();
         this.detectionSystem = new VehicleDetectionSystem();
         this.analytics = new TrafficAnalytics();
-        this.emergencyHandler = new EmergencyVehicleHandler(this);
-        this.scheduler = Executors.newScheduledThreadPool(4);
+        this.ingestQueue = new SensorIngestQueue(INGEST_QUEUE_CAPACITY);
+        this.overloadMonitor = new OverloadMonitor(ingestQueue);
+        
+        this.signalScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.sensorScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.ingestExecutor = Executors.newSingleThreadExecutor();
+        this.predictionScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.reportScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.emergencyScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.emergencyHandler = new EmergencyVehicleHandler(this, emergencyScheduler);
         
         initializeIntersections();
     }
@@ -562,39 +794,135 @@ class TrafficManagementSystem {
     public void startSystem() {
         System.out.println("[SYSTEM] Starting Enhanced Intelligent Traffic Management System with ML...");
         
-        scheduler.scheduleAtFixedRate(this::updateTrafficSignals, 0, 2, TimeUnit.SECONDS);
-        scheduler.scheduleAtFixedRate(this::detectAndProcessVehicles, 0, 5, TimeUnit.SECONDS);
-        scheduler.scheduleAtFixedRate(analytics::generateEnhancedTrafficReport, 45, 45, TimeUnit.SECONDS);
+        // Signals keep a fixed rate; the other stages use a fixed delay so an overrun cannot pile up runs
+        signalScheduler.scheduleAtFixedRate(
+            () -> runTimedCycle(OverloadMonitor.STAGE_SIGNALS, SIGNAL_PERIOD_MS, this::updateTrafficSignals),
+            0, SIGNAL_PERIOD_MS, TimeUnit.MILLISECONDS);
+        sensorScheduler.scheduleWithFixedDelay(
+            () -> runTimedCycle(OverloadMonitor.STAGE_DETECTION, DETECTION_PERIOD_MS, this::pollSensors),
+            0, DETECTION_PERIOD_MS, TimeUnit.MILLISECONDS);
+        // Seed predictions before the first sensor poll so signal timing never starts without them
+        refreshPredictions();
+        predictionScheduler.scheduleWithFixedDelay(this::refreshPredictions,
+            PREDICTION_PERIOD_MS, PREDICTION_PERIOD_MS, TimeUnit.MILLISECONDS);
+        reportScheduler.scheduleWithFixedDelay(this::generateReport, REPORT_PERIOD_MS, REPORT_PERIOD_MS, TimeUnit.MILLISECONDS);
+        ingestExecutor.execute(this::processIngestQueue);
         
         System.out.println("[SYSTEM] Enhanced Traffic Management System with ML is now active!");
     }
     
+    private void runTimedCycle(String stage, long periodMillis, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Throwable t) {
+            // Anything escaping here would silently cancel the scheduled task, including the signal tick
+            System.out.println("[ERROR] " + stage + " cycle failed: " + t);
+        } finally {
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            overloadMonitor.recordCycle(stage, durationMillis, periodMillis);
+        }
+    }
+    
     private void updateTrafficSignals() {
         for (TrafficSignal signal : trafficSignals.values()) {
             signal.updateState();
         }
     }
     
-    private void detectAndProcessVehicles() {
+    private void pollSensors() {
+        if (ingestBackedOff && ingestQueue.getFillRatio() < OverloadMonitor.ELEVATED_QUEUE_FILL) {
+            ingestBackedOff = false;
+            System.out.printf("[BACKPRESSURE] Ingest queue drained (%d/%d), resuming sensor batches%n",
+                ingestQueue.getDepth(), ingestQueue.getCapacity());
+        }
+        
         for (String intersectionId : trafficSignals.keySet()) {
             List<Vehicle> detectedVehicles = detectionSystem.detectVehicles(intersectionId);
             
-            analytics.recordTrafficData(intersectionId, detectedVehicles);
-            
+            // Emergency vehicles bypass the ingest queue so backpressure never delays them
             for (Vehicle vehicle : detectedVehicles) {
                 if (vehicle.isEmergencyVehicle()) {
-                    emergencyHandler.handleEmergencyVehicle(vehicle);
+                    emergencyScheduler.execute(() -> emergencyHandler.handleEmergencyVehicle(vehicle));
                 }
             }
             
-            // Enhanced adaptive signal timing with ML
+            // Signal re-timing uses the raw batch so it keeps running while analytics is backed up
             TrafficSignal signal = trafficSignals.get(intersectionId);
-            double avgSpeed = analytics.getAverageSpeed(intersectionId);
-            TrafficPrediction prediction = analytics.getPrediction(intersectionId, 1);
-            
-            signal.adaptTimingWithML(detectedVehicles.size(), avgSpeed, prediction);
+            double avgSpeed = detectedVehicles.stream().mapToDouble(Vehicle::getSpeed).average().orElse(0);
+            signal.adaptTimingWithML(detectedVehicles.size(), avgSpeed, latestPredictions.get(intersectionId));
             
             displayEnhancedIntersectionStatus(intersectionId, signal, detectedVehicles.size());
+            
+            submitSensorReading(new SensorReading(intersectionId, detectedVehicles));
+        }
+    }
+    
+    // Once the queue rejects a batch, sensors stop submitting until it drains below the elevated threshold
+    private void submitSensorReading(SensorReading reading) {
+        if (ingestBackedOff) {
+            ingestQueue.recordWithheld();
+            return;
+        }
+        
+        if (!ingestQueue.offer(reading)) {
+            ingestBackedOff = true;
+            System.out.printf("[BACKPRESSURE] Ingest queue full (%d/%d), holding sensor batches from %s onwards%n",
+                ingestQueue.getDepth(), ingestQueue.getCapacity(), reading.getIntersectionId());
+        }
+    }
+    
+    private void processIngestQueue() {
+        // Each poll enqueues one batch per intersection, so a batch gets its share of the detection period
+        long batchBudgetMillis = DETECTION_PERIOD_MS / Math.max(1, trafficSignals.size());
+        
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                SensorReading reading = ingestQueue.take();
+                runTimedCycle(OverloadMonitor.STAGE_INGEST, batchBudgetMillis,
+                    () -> analytics.recordTrafficData(reading.getIntersectionId(), reading.getVehicles()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void refreshPredictions() {
+        if (overloadMonitor.getLoadLevel() == OverloadMonitor.LoadLevel.CRITICAL) {
+            overloadMonitor.recordShed(OverloadMonitor.STAGE_PREDICTION);
+            System.out.println("[OVERLOAD] Skipping prediction refresh, reusing last predictions");
+            return;
+        }
+        
+        runTimedCycle(OverloadMonitor.STAGE_PREDICTION, PREDICTION_PERIOD_MS, () -> {
+            analytics.retrainModels();
+            for (String intersectionId : trafficSignals.keySet()) {
+                latestPredictions.put(intersectionId, analytics.getPrediction(intersectionId, 1));
+            }
+        });
+    }
+    
+    private void generateReport() {
+        switch (overloadMonitor.getLoadLevel()) {
+            case CRITICAL:
+                overloadMonitor.recordShed(OverloadMonitor.STAGE_REPORT);
+                System.out.println("[OVERLOAD] Skipping traffic report");
+                overloadMonitor.printOverloadStatus();
+                return;
+            case ELEVATED:
+                overloadMonitor.recordDegraded(OverloadMonitor.STAGE_REPORT);
+                runTimedCycle(OverloadMonitor.STAGE_REPORT, REPORT_PERIOD_MS, () -> {
+                    analytics.generateTrafficSummary();
+                    overloadMonitor.printOverloadStatus();
+                });
+                break;
+            case NORMAL:
+            default:
+                runTimedCycle(OverloadMonitor.STAGE_REPORT, REPORT_PERIOD_MS, () -> {
+                    analytics.generateEnhancedTrafficReport();
+                    overloadMonitor.printOverloadStatus();
+                });
+                break;
         }
     }
     
@@ -629,8 +957,21 @@ class TrafficManagementSystem {
         }
     }
     
+    public OverloadMonitor.LoadLevel getLoadLevel() {
+        return overloadMonitor.getLoadLevel();
+    }
+    
+    public Map<String, Long> getOverloadMetrics() {
+        return overloadMonitor.getMetrics();
+    }
+    
     public void shutdown() {
-        scheduler.shutdown();
+        sensorScheduler.shutdown();
+        predictionScheduler.shutdown();
+        reportScheduler.shutdown();
+        ingestExecutor.shutdownNow(); // interrupts the blocking take()
+        signalScheduler.shutdown();
+        emergencyScheduler.shutdownNow(); // pending override clears are dropped with the system
         System.out.println("[SYSTEM] Enhanced Traffic Management System shutdown complete.");
     }
 }